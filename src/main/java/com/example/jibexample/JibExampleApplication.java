@@ -1,9 +1,12 @@
 package com.example.jibexample;
 
+import com.example.jibexample.config.UserRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(UserRuntimeHints.class)
 public class JibExampleApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,158 @@
+package com.example.jibexample.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 单个用户查询响应的缓存
+ * <p>
+ * 缓存的是已经序列化好的完整响应体，命中时只需写出字节数组，不再经过 Hibernate 和 Jackson。
+ * 单个用户的响应体只有几百字节，低于服务端压缩阈值，因此不保存压缩版本。
+ * 每个条目以用户 ID 为键、以 updatedAt 作为版本：较旧版本的写入会被忽略，避免并发读取把更新前的数据重新放回缓存。
+ * 条目数达到上限后淘汰最久未访问的条目。
+ * <p>
+ * 更新和删除只会使本实例的缓存失效，其他实例上的修改无法感知，因此每个条目只在 user.response-cache.ttl 内有效，
+ * 过期后重新查询数据库，多实例部署时旧数据最多保留这么长时间。
+ * <p>
+ * 用户删除后在一段时间内保留墓碑，阻止删除前开始的查询把已删除的用户重新放回缓存；
+ * 墓碑单独保存、不占用缓存容量，过期后清除。
+ */
+@Component
+public class UserResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration ttl;
+
+    private final Duration tombstoneTtl;
+
+    private final Map<Long, Entry> entries;
+
+    private final Map<Long, Instant> tombstones = new HashMap<>();
+
+    public UserResponseCache(ObjectMapper objectMapper,
+                             @Value("${user.response-cache.max-entries:10000}") int maxEntries,
+                             @Value("${user.response-cache.ttl:PT30S}") Duration ttl,
+                             @Value("${user.response-cache.tombstone-ttl:PT1M}") Duration tombstoneTtl) {
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 获取缓存的响应，未缓存或已过期时返回空
+     */
+    public synchronized Optional<CachedResponse> get(Long id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!Instant.now().isBefore(entry.expiresAt())) {
+            entries.remove(id);
+            return Optional.empty();
+        }
+        return Optional.of(entry.response());
+    }
+
+    /**
+     * 序列化并缓存用户响应，版本不新于已缓存条目或用户刚被删除时保留原状态；
+     * 版本与已缓存条目相同时视为重新验证，延长原条目的有效期
+     *
+     * @return 本次构建的响应（即使因版本较旧或用户已删除未被缓存，也可直接用于输出）
+     */
+    public CachedResponse put(Long id, LocalDateTime updatedAt, Object user) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", true);
+        response.put("data", user);
+        CachedResponse created = new CachedResponse(updatedAt, etag(id, updatedAt), serialize(response));
+
+        if (updatedAt == null) {
+            // 没有版本信息无法判断新旧，不缓存
+            return created;
+        }
+        synchronized (this) {
+            Instant now = Instant.now();
+            Instant deletedUntil = tombstones.get(id);
+            if (deletedUntil != null) {
+                if (now.isBefore(deletedUntil)) {
+                    return created;
+                }
+                tombstones.remove(id);
+            }
+            entries.merge(id, new Entry(created, now.plus(ttl)), (existing, candidate) -> {
+                LocalDateTime existingVersion = existing.response().updatedAt();
+                if (existingVersion.isBefore(updatedAt)) {
+                    return candidate;
+                }
+                return existingVersion.equals(updatedAt) ? new Entry(existing.response(), candidate.expiresAt()) : existing;
+            });
+        }
+        return created;
+    }
+
+    /**
+     * 标记用户已删除：移除缓存的响应，并在墓碑有效期内拒绝重新缓存
+     */
+    public synchronized void markDeleted(Long id) {
+        Instant now = Instant.now();
+        tombstones.values().removeIf(deletedUntil -> !now.isBefore(deletedUntil));
+        entries.remove(id);
+        tombstones.put(id, now.plus(tombstoneTtl));
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        entries.clear();
+        tombstones.clear();
+    }
+
+    /**
+     * 当前缓存的条目数（不含墓碑）
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("用户响应序列化失败", e);
+        }
+    }
+
+    private static String etag(Long id, LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return "\"" + id + "-" + updatedAt.toEpochSecond(ZoneOffset.UTC) + "." + updatedAt.getNano() + "\"";
+    }
+
+    /**
+     * 缓存条目：JSON 响应体及其版本
+     */
+    public record CachedResponse(LocalDateTime updatedAt, String etag, byte[] json) {
+    }
+
+    private record Entry(CachedResponse response, Instant expiresAt) {
+    }
+}
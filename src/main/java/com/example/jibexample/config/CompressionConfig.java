@@ -0,0 +1,132 @@
+package com.example.jibexample.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 响应压缩配置
+ * <p>
+ * Tomcat 只有在响应带有 Content-Length 时才会按 server.compression.min-response-size 判断是否压缩，
+ * Jackson 以分块方式写出的 JSON 没有 Content-Length，无论大小都会被压缩。
+ * 这里先缓冲 /api/* 的响应体再写出，使 Content-Length 已知，压缩阈值才能生效；这些接口返回的都是有限大小的 JSON。
+ * 处理器自己已经给出 Content-Length 时（例如直接写出缓存字节的 {@code GET /api/users/{id}}）不再缓冲。
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "server.compression", name = "enabled", havingValue = "true")
+public class CompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<ContentLengthFilter> contentLengthFilter() {
+        FilterRegistrationBean<ContentLengthFilter> registration = new FilterRegistrationBean<>(new ContentLengthFilter());
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /**
+     * 缓冲响应体并在写出时设置 Content-Length
+     */
+    static class ContentLengthFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            ContentLengthResponseWrapper wrapper = new ContentLengthResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 在开始写响应体前已经设置了 Content-Length 时直接写入原始响应，否则缓冲
+     */
+    static class ContentLengthResponseWrapper extends ContentCachingResponseWrapper {
+
+        private boolean bodyStarted;
+
+        private boolean contentLengthKnown;
+
+        ContentLengthResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            if (!bodyStarted) {
+                contentLengthKnown = true;
+                getResponse().setContentLength(len);
+                return;
+            }
+            super.setContentLength(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (!bodyStarted) {
+                contentLengthKnown = true;
+                getResponse().setContentLengthLong(len);
+                return;
+            }
+            super.setContentLengthLong(len);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            markContentLength(name);
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            markContentLength(name);
+            super.addHeader(name, value);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (contentLengthKnown) {
+                return getResponse().getOutputStream();
+            }
+            bodyStarted = true;
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (contentLengthKnown) {
+                return getResponse().getWriter();
+            }
+            bodyStarted = true;
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (contentLengthKnown) {
+                getResponse().flushBuffer();
+                return;
+            }
+            super.flushBuffer();
+        }
+
+        private void markContentLength(String name) {
+            if (!bodyStarted && HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                contentLengthKnown = true;
+            }
+        }
+    }
+}
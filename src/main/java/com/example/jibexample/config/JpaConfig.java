@@ -0,0 +1,21 @@
+package com.example.jibexample.config;
+
+import com.example.jibexample.dao.UserRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * 阻塞式栈的 JPA 仓库配置
+ * <p>
+ * dao 包中同时存在 R2DBC 仓库，JPA 扫描时需要将其排除。
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!reactive")
+@EnableJpaRepositories(basePackageClasses = UserRepository.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveCrudRepository.class))
+public class JpaConfig {
+}
@@ -0,0 +1,93 @@
+package com.example.jibexample.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 启动完成后输出实际生效的堆、GC与线程配置
+ * <p>
+ * 镜像中的堆大小按容器内存限制的百分比计算（见 pom.xml 的 jib.jvm.* 属性），具体数值只有在运行时才能确定。
+ */
+@Component
+public class JvmSettingsLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(JvmSettingsLogger.class);
+
+    private static final long MB = 1024 * 1024;
+
+    private final ServerProperties serverProperties;
+
+    public JvmSettingsLogger(ServerProperties serverProperties) {
+        this.serverProperties = serverProperties;
+    }
+
+    @EventListener
+    public void logJvmSettings(ApplicationReadyEvent event) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        log.info("JVM heap: initial={}MB, max={}MB, physicalMemory={}MB",
+                heap.getInit() / MB, heap.getMax() / MB, physicalMemory() / MB);
+        log.info("JVM GC: {}", garbageCollectors());
+        log.info("JVM threads: availableProcessors={}, commonPoolParallelism={}, {}, liveThreads={}",
+                Runtime.getRuntime().availableProcessors(),
+                ForkJoinPool.getCommonPoolParallelism(),
+                serverThreads(event.getApplicationContext()),
+                ManagementFactory.getThreadMXBean().getThreadCount());
+        log.info("JVM flags: {}", jvmFlags());
+    }
+
+    /**
+     * 启动参数中的 -XX 选项（镜像中由 jib.jvm.* 生成）
+     * <p>
+     * 完整的启动参数可能包含 -D 传入的密码等敏感信息，不输出。
+     */
+    private List<String> jvmFlags() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> argument.startsWith("-XX:"))
+                .toList();
+    }
+
+    /**
+     * 实际运行的 Web 服务器的线程配置：Spring MVC 为 Tomcat 最大工作线程数，WebFlux（reactive profile）为 Netty 的 I/O 线程数
+     */
+    private String serverThreads(ApplicationContext context) {
+        if (context instanceof ServletWebServerApplicationContext) {
+            return "tomcatMaxThreads=" + serverProperties.getTomcat().getThreads().getMax();
+        }
+        if (context instanceof ReactiveWebServerApplicationContext) {
+            return "nettyIoWorkers=" + LoopResources.DEFAULT_IO_WORKER_COUNT;
+        }
+        return "webServer=none";
+    }
+
+    /**
+     * JVM 可见的物理内存，在容器中即为容器的内存限制
+     */
+    private long physicalMemory() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getTotalMemorySize();
+        }
+        return -1;
+    }
+
+    private String garbageCollectors() {
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        return collectors.stream()
+                .map(GarbageCollectorMXBean::getName)
+                .collect(Collectors.joining(", "));
+    }
+}
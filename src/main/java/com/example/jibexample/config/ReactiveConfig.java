@@ -0,0 +1,22 @@
+package com.example.jibexample.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 响应式栈配置（reactive profile）
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("reactive")
+public class ReactiveConfig {
+
+    /**
+     * classpath 上同时存在 Tomcat，显式指定 Netty 作为响应式服务器，避免每个连接占用一个线程
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.jibexample.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置
+ * <p>
+ * 用于定期将用户统计计数器与数据库对账（见 {@link com.example.jibexample.stats.UserStatistics}）。
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+}
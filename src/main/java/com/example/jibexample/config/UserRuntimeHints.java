@@ -0,0 +1,33 @@
+package com.example.jibexample.config;
+
+import com.example.jibexample.dto.UserCountByHour;
+import com.example.jibexample.dto.UserDto;
+import com.example.jibexample.dto.UserStats;
+import com.example.jibexample.entity.User;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM 原生镜像的可达性元数据补充
+ * <p>
+ * JPA 实体与 Spring Data 仓库（含派生查询）的元数据由 Spring AOT 生成，Hibernate、H2 的元数据来自
+ * GraalVM reachability metadata 仓库；这里只补充 AOT 无法推断的部分。
+ */
+public class UserRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // 控制器返回 Map<String, Object>，AOT 无法从方法签名推断出 User 需要 Jackson 序列化
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                User.class, UserDto.class, UserStats.class);
+
+        // JPQL 构造表达式（select new UserDto(...)、select new UserCountByHour(...)）通过反射调用构造器
+        hints.reflection().registerType(UserDto.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(UserCountByHour.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        // 建表脚本（fast-startup / reactive profile）
+        hints.resources().registerPattern("schema-h2.sql");
+    }
+}
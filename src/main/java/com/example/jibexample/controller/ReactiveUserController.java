@@ -0,0 +1,141 @@
+package com.example.jibexample.controller;
+
+import com.example.jibexample.entity.User;
+import com.example.jibexample.service.ReactiveUserService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 用户控制器（响应式版本，reactive profile 下替代 {@link UserController}，接口契约保持一致）
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * 创建用户
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Map<String, Object>>> createUser(@RequestBody User user) {
+        return userService.createUser(user)
+                .map(createdUser -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "用户创建成功");
+                    response.put("data", createdUser);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+                })
+                .onErrorResume(RuntimeException.class, this::badRequest);
+    }
+
+    /**
+     * 根据ID获取用户
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getUserById(@PathVariable Long id) {
+        return userService.getUserById(id)
+                .map(this::found)
+                .defaultIfEmpty(notFound("用户不存在，ID: " + id));
+    }
+
+    /**
+     * 根据用户名获取用户
+     */
+    @GetMapping("/username/{username}")
+    public Mono<ResponseEntity<Map<String, Object>>> getUserByUsername(@PathVariable String username) {
+        return userService.getUserByUsername(username)
+                .map(this::found)
+                .defaultIfEmpty(notFound("用户不存在，用户名: " + username));
+    }
+
+    /**
+     * 获取所有用户
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> getAllUsers() {
+        return userService.getAllUsers()
+                .collectList()
+                .map(users -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("data", users);
+                    response.put("count", users.size());
+                    return ResponseEntity.ok(response);
+                });
+    }
+
+    /**
+     * 以 NDJSON 流的形式获取所有用户，逐条写出，写出速度受客户端消费速度（背压）控制
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<User> streamAllUsers() {
+        return userService.getAllUsers();
+    }
+
+    /**
+     * 更新用户信息
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
+        return userService.updateUser(id, userDetails)
+                .map(updatedUser -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "用户更新成功");
+                    response.put("data", updatedUser);
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(RuntimeException.class, this::badRequest);
+    }
+
+    /**
+     * 删除用户
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> deleteUser(@PathVariable Long id) {
+        return userService.deleteUser(id)
+                .then(Mono.fromCallable(() -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("success", true);
+                    response.put("message", "用户删除成功");
+                    return ResponseEntity.ok(response);
+                }))
+                .onErrorResume(RuntimeException.class, this::badRequest);
+    }
+
+    private ResponseEntity<Map<String, Object>> found(User user) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", user);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> notFound(String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    private Mono<ResponseEntity<Map<String, Object>>> badRequest(RuntimeException e) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", e.getMessage());
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response));
+    }
+}
@@ -1,26 +1,37 @@
 package com.example.jibexample.controller;
 
+import com.example.jibexample.cache.UserResponseCache;
+import com.example.jibexample.cache.UserResponseCache.CachedResponse;
+import com.example.jibexample.dto.UserDto;
 import com.example.jibexample.entity.User;
 import com.example.jibexample.service.UserService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 用户控制器
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/users")
 public class UserController {
 
     private final UserService userService;
 
-    public UserController(UserService userService) {
+    private final UserResponseCache responseCache;
+
+    public UserController(UserService userService, UserResponseCache responseCache) {
         this.userService = userService;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -44,21 +55,22 @@ public class UserController {
 
     /**
      * 根据ID获取用户
+     * <p>
+     * 响应体来自 {@link UserResponseCache}，命中时直接写出缓存的字节。
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long id) {
-        Map<String, Object> response = new HashMap<>();
-        return userService.getUserById(id)
-                .map(user -> {
-                    response.put("success", true);
-                    response.put("data", user);
-                    return ResponseEntity.ok(response);
-                })
-                .orElseGet(() -> {
-                    response.put("success", false);
-                    response.put("message", "用户不存在，ID: " + id);
-                    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-                });
+    public ResponseEntity<?> getUserById(@PathVariable Long id,
+                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<CachedResponse> cached = responseCache.get(id)
+                .or(() -> userService.getUserById(id)
+                        .map(user -> responseCache.put(id, user.updatedAt(), user)));
+        if (cached.isEmpty()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "用户不存在，ID: " + id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        return cachedResponse(cached.get(), ifNoneMatch);
     }
 
     /**
@@ -86,13 +98,24 @@ public class UserController {
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllUsers() {
         Map<String, Object> response = new HashMap<>();
-        List<User> users = userService.getAllUsers();
+        List<UserDto> users = userService.getAllUsers();
         response.put("success", true);
         response.put("data", users);
         response.put("count", users.size());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 获取用户统计信息
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getUserStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", userService.getUserStats());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 更新用户信息
      */
@@ -129,4 +152,15 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
     }
+
+    private ResponseEntity<byte[]> cachedResponse(CachedResponse cached, String ifNoneMatch) {
+        if (cached.etag() != null && cached.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (cached.etag() != null) {
+            builder.eTag(cached.etag());
+        }
+        return builder.body(cached.json());
+    }
 }
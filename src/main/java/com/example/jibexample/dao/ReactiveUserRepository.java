@@ -0,0 +1,33 @@
+package com.example.jibexample.dao;
+
+import com.example.jibexample.entity.User;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 用户数据访问层响应式接口（reactive profile，基于 R2DBC）
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveCrudRepository<User, Long> {
+
+    /**
+     * 根据用户名查找用户
+     */
+    Mono<User> findByUsername(String username);
+
+    /**
+     * 根据邮箱查找用户
+     */
+    Mono<User> findByEmail(String email);
+
+    /**
+     * 检查用户名是否存在
+     */
+    Mono<Boolean> existsByUsername(String username);
+
+    /**
+     * 检查邮箱是否存在
+     */
+    Mono<Boolean> existsByEmail(String email);
+}
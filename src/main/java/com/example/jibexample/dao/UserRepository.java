@@ -1,9 +1,14 @@
 package com.example.jibexample.dao;
 
+import com.example.jibexample.dto.UserCountByHour;
+import com.example.jibexample.dto.UserDto;
 import com.example.jibexample.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,4 +36,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 检查邮箱是否存在
      */
     boolean existsByEmail(String email);
+
+    /**
+     * 根据ID查询用户只读视图
+     */
+    Optional<UserDto> findDtoById(Long id);
+
+    /**
+     * 根据用户名查询用户只读视图
+     */
+    Optional<UserDto> findDtoByUsername(String username);
+
+    /**
+     * 查询所有用户只读视图
+     */
+    List<UserDto> findAllDtosBy();
+
+    /**
+     * 按小时统计指定时间之后注册的用户数
+     */
+    @Query("select new com.example.jibexample.dto.UserCountByHour(cast(u.createdAt as LocalDate), hour(u.createdAt), count(u)) "
+            + "from User u where u.createdAt >= :since "
+            + "group by cast(u.createdAt as LocalDate), hour(u.createdAt)")
+    List<UserCountByHour> countCreatedByHourSince(LocalDateTime since);
+
+    /**
+     * 按小时统计指定时间之后有更新的用户数
+     */
+    @Query("select new com.example.jibexample.dto.UserCountByHour(cast(u.updatedAt as LocalDate), hour(u.updatedAt), count(u)) "
+            + "from User u where u.updatedAt >= :since "
+            + "group by cast(u.updatedAt as LocalDate), hour(u.updatedAt)")
+    List<UserCountByHour> countUpdatedByHourSince(LocalDateTime since);
 }
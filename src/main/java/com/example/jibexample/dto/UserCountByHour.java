@@ -0,0 +1,17 @@
+package com.example.jibexample.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 按小时分组的用户数量
+ */
+public record UserCountByHour(LocalDate day, Integer hour, Long count) {
+
+    /**
+     * 该小时的起始时间
+     */
+    public LocalDateTime startOfHour() {
+        return day.atTime(hour, 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.jibexample.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 用户只读视图
+ * <p>
+ * 查询时通过 JPQL 构造表达式直接投影到该记录，不创建受管实体，也不会在持久化上下文中保留快照。
+ * 字段与 {@link com.example.jibexample.entity.User} 一致，序列化后的 JSON 与实体相同。
+ */
+public record UserDto(Long id, String username, String email, String name,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,18 @@
+package com.example.jibexample.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 用户统计信息
+ *
+ * @param total            用户总数
+ * @param signupsPerDay    最近若干天每天的注册数（按 createdAt）
+ * @param signupsPerHour   最近若干小时每小时的注册数（按 createdAt）
+ * @param recentlyUpdated  最近若干小时内有更新的用户数（按 updatedAt）
+ * @param reconciledAt     最近一次与数据库对账的时间，尚未对账时为 null
+ */
+public record UserStats(long total, Map<LocalDate, Long> signupsPerDay, Map<LocalDateTime, Long> signupsPerHour,
+                        long recentlyUpdated, LocalDateTime reconciledAt) {
+}
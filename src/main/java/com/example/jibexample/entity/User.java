@@ -5,12 +5,16 @@ import java.time.LocalDateTime;
 
 /**
  * 用户实体类
+ * <p>
+ * 同时声明了 Spring Data Relational 的映射注解，供 reactive profile 下的 R2DBC 仓库复用同一张 users 表。
  */
 @Entity
 @Table(name = "users")
+@org.springframework.data.relational.core.mapping.Table("users")
 public class User {
 
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -0,0 +1,262 @@
+package com.example.jibexample.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.web.server.ConditionalOnManagementPort;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 基于 JFR 的在线性能分析端点
+ * <p>
+ * {@code POST /actuator/profiling} 启动一次限时录制（CPU 采样、内存分配采样、锁竞争与仓库方法调用），录制在后台进行，
+ * 到达时长后自动停止；{@code GET /actuator/profiling} 查看录制状态，{@code DELETE /actuator/profiling} 提前结束录制；
+ * 录制结束后通过 {@code GET /actuator/profiling/{report}} 获取折叠栈报告（cpu、allocation、lock）、
+ * 仓库调用汇总（repository）或原始录制文件（jfr）。
+ * <p>
+ * 同一时间只允许一个录制，时长与文件大小都有上限；采样配置基于 JDK 自带的 default 配置（开销约 1%），
+ * 但关闭了记录环境变量、系统属性、JVM 启动参数等可能包含密钥的事件。
+ * <p>
+ * 端点默认不启用，需要通过 management.endpoint.profiling.enabled 启用并加入 management.endpoints.web.exposure.include；
+ * 此外只有 Actuator 通过 management.server.port 运行在独立的管理端口上时才会注册，不会与业务接口一起对外暴露。
+ */
+@Component
+@ConditionalOnManagementPort(ManagementPortType.DIFFERENT)
+@WebEndpoint(id = "profiling", enableByDefault = false)
+public class ProfilingEndpoint {
+
+    /**
+     * default 配置中会把进程环境写入录制文件的事件：环境变量、系统属性、JVM 与 Java 启动参数、
+     * 本机其他进程及子进程的命令行、安全属性
+     */
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable",
+            "jdk.InitialSystemProperty",
+            "jdk.JVMInformation",
+            "jdk.SystemProcess",
+            "jdk.ProcessStart",
+            "jdk.SecurityPropertyModification");
+
+    private static final Duration DEFAULT_DURATION = Duration.ofSeconds(30);
+
+    private static final String JFR_REPORT = "jfr";
+
+    private static final int STATUS_CONFLICT = 409;
+
+    private static final MimeType TEXT_PLAIN_UTF8 = new MimeType("text", "plain", StandardCharsets.UTF_8);
+
+    private final Duration maxDuration;
+
+    private final DataSize maxSize;
+
+    private Recording recording;
+
+    private Path file;
+
+    private Instant startedAt;
+
+    public ProfilingEndpoint(@Value("${user.profiling.max-duration:PT60S}") Duration maxDuration,
+                             @Value("${user.profiling.max-size:64MB}") DataSize maxSize) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 查看当前（或最近一次）录制的状态
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : isFinished() ? "STOPPED" : recording.getState().name());
+        if (recording != null) {
+            status.put("startedAt", startedAt);
+            status.put("duration", recording.getDuration());
+            if (isFinished()) {
+                status.put("size", fileSize());
+                status.put("reports", reportNames());
+            }
+        }
+        status.put("maxDuration", maxDuration);
+        status.put("maxSize", maxSize.toBytes());
+        return status;
+    }
+
+    /**
+     * 启动录制，duration 为空时录制 30 秒，超过上限时按上限录制
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            return error("当前 JVM 不支持 JFR", WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        if (isActive()) {
+            return error("已有正在进行的录制", STATUS_CONFLICT);
+        }
+        Duration requested = duration != null ? duration : DEFAULT_DURATION;
+        if (requested.isNegative() || requested.isZero()) {
+            return error("录制时长必须大于0", WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        close();
+        try {
+            file = Files.createTempFile("profiling-", ".jfr");
+            recording = new Recording(settings());
+            recording.setName("profiling");
+            recording.setDuration(requested.compareTo(maxDuration) > 0 ? maxDuration : requested);
+            recording.setMaxSize(maxSize.toBytes());
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+            startedAt = Instant.now();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            close();
+            throw new IllegalStateException("JFR 配置解析失败", e);
+        }
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * 提前结束正在进行的录制，已录制的数据仍可用于生成报告
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (!isActive()) {
+            return error("没有正在进行的录制", WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        recording.stop();
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    /**
+     * 获取录制报告：cpu、allocation、lock（折叠栈）、repository（仓库调用汇总）或 jfr（原始录制文件）
+     */
+    @ReadOperation(produces = {MimeTypeUtils.TEXT_PLAIN_VALUE, MimeTypeUtils.APPLICATION_OCTET_STREAM_VALUE})
+    public synchronized WebEndpointResponse<Object> report(@Selector String report) {
+        ProfilingReport profilingReport = ProfilingReport.of(report);
+        if (profilingReport == null && !JFR_REPORT.equalsIgnoreCase(report)) {
+            return textResponse("未知的报告类型: " + report, WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (recording == null) {
+            return textResponse("没有可用的录制", WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (!isFinished()) {
+            return textResponse("录制尚未结束", STATUS_CONFLICT);
+        }
+        if (profilingReport == null) {
+            return new WebEndpointResponse<>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK,
+                    MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        }
+        try {
+            return textResponse(profilingReport.render(file), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 关闭录制并删除录制文件
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            startedAt = null;
+        }
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            file = null;
+        }
+    }
+
+    private boolean isActive() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    /**
+     * 录制已结束且已写入文件；设置了时长的录制结束后会被 JFR 直接关闭，状态为 CLOSED
+     */
+    private boolean isFinished() {
+        return recording != null
+                && (recording.getState() == RecordingState.STOPPED || recording.getState() == RecordingState.CLOSED);
+    }
+
+    private long fileSize() {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static List<String> reportNames() {
+        return Stream.concat(Arrays.stream(ProfilingReport.values()).map(report -> report.name().toLowerCase()),
+                Stream.of(JFR_REPORT)).toList();
+    }
+
+    /**
+     * 录制配置：在 default 配置（生产环境可用的低开销配置）基础上打开分配采样、收紧锁事件阈值、启用仓库调用事件，
+     * 并关闭会泄露进程环境的事件
+     */
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        settings.put("jdk.ExecutionSample#enabled", "true");
+        settings.put("jdk.ExecutionSample#period", "20 ms");
+        settings.put("jdk.ObjectAllocationSample#enabled", "true");
+        settings.put("jdk.ObjectAllocationSample#throttle", "150/s");
+        settings.put("jdk.JavaMonitorEnter#threshold", "10 ms");
+        settings.put("jdk.ThreadPark#threshold", "10 ms");
+        settings.put(RepositoryInvocationEvent.NAME + "#enabled", "true");
+        settings.put(RepositoryInvocationEvent.NAME + "#threshold", "0 ms");
+        settings.put(RepositoryInvocationEvent.NAME + "#stackTrace", "false");
+        SENSITIVE_EVENTS.forEach(event -> settings.put(event + "#enabled", "false"));
+        return settings;
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(String message, int status) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", message);
+        return new WebEndpointResponse<>(body, status);
+    }
+
+    private static WebEndpointResponse<Object> textResponse(String body, int status) {
+        return new WebEndpointResponse<>(body, status, TEXT_PLAIN_UTF8);
+    }
+}
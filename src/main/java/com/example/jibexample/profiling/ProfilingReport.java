@@ -0,0 +1,166 @@
+package com.example.jibexample.profiling;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 录制文件的文本报告
+ * <p>
+ * cpu、allocation、lock 报告为折叠栈格式（每行 {@code 栈帧;栈帧;... 权重}，从栈底到栈顶），
+ * 可直接交给 flamegraph.pl、speedscope 等工具生成火焰图；repository 报告为按方法汇总的耗时表。
+ */
+enum ProfilingReport {
+
+    /**
+     * CPU 采样，权重为采样次数
+     */
+    CPU(Set.of("jdk.ExecutionSample"), event -> true, event -> 1),
+
+    /**
+     * 内存分配采样，权重为估算的分配字节数
+     */
+    ALLOCATION(Set.of("jdk.ObjectAllocationSample"), event -> true, event -> event.getLong("weight")),
+
+    /**
+     * 锁竞争（synchronized 与 java.util.concurrent 锁、连接池等待），权重为阻塞的微秒数
+     * <p>
+     * 线程池空闲时在 Condition 上等待任务同样会产生 ThreadPark 事件，这类等待不属于竞争，不计入报告。
+     */
+    LOCK(Set.of("jdk.JavaMonitorEnter", "jdk.ThreadPark"), ProfilingReport::isContention,
+            event -> event.getDuration().toNanos() / 1000),
+
+    /**
+     * 仓库方法调用耗时汇总
+     */
+    REPOSITORY(Set.of(RepositoryInvocationEvent.NAME), event -> true, event -> event.getDuration().toNanos() / 1000);
+
+    private final Set<String> eventTypes;
+
+    private final Predicate<RecordedEvent> filter;
+
+    private final ToLongFunction<RecordedEvent> weight;
+
+    ProfilingReport(Set<String> eventTypes, Predicate<RecordedEvent> filter, ToLongFunction<RecordedEvent> weight) {
+        this.eventTypes = eventTypes;
+        this.filter = filter;
+        this.weight = weight;
+    }
+
+    /**
+     * 根据名称查找报告类型，名称不区分大小写
+     */
+    static ProfilingReport of(String name) {
+        return Arrays.stream(values())
+                .filter(report -> report.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 读取录制文件并生成文本报告
+     */
+    String render(Path recording) throws IOException {
+        return this == REPOSITORY ? repositorySummary(recording) : foldedStacks(recording);
+    }
+
+    private String foldedStacks(Path recording) throws IOException {
+        Map<String, Long> stacks = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (matches(event) && event.getStackTrace() != null) {
+                    stacks.merge(fold(event.getStackTrace()), weight.applyAsLong(event), Long::sum);
+                }
+            }
+        }
+        return stacks.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    private String repositorySummary(Path recording) throws IOException {
+        Map<String, MethodStats> methods = new HashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                if (matches(event)) {
+                    String method = event.getString("repository") + "." + event.getString("method");
+                    methods.computeIfAbsent(method, key -> new MethodStats()).add(event.getDuration());
+                }
+            }
+        }
+        StringBuilder report = new StringBuilder(String.format("%-50s %8s %12s %10s %10s%n",
+                "method", "count", "total(ms)", "avg(ms)", "max(ms)"));
+        methods.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<String, MethodStats> entry) -> entry.getValue().total).reversed())
+                .forEach(entry -> {
+                    MethodStats stats = entry.getValue();
+                    report.append(String.format("%-50s %8d %12.2f %10.3f %10.3f%n", entry.getKey(), stats.count,
+                            millis(stats.total), millis(stats.total) / stats.count, millis(stats.max)));
+                });
+        return report.toString();
+    }
+
+    private boolean matches(RecordedEvent event) {
+        return eventTypes.contains(event.getEventType().getName()) && filter.test(event);
+    }
+
+    private static boolean isContention(RecordedEvent event) {
+        if (!event.hasField("parkedClass")) {
+            return true;
+        }
+        RecordedClass parkedClass = event.getClass("parkedClass");
+        return parkedClass != null && !parkedClass.getName().endsWith("$ConditionObject");
+    }
+
+    private static String fold(RecordedStackTrace stackTrace) {
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder folded = new StringBuilder();
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedFrame frame = frames.get(i);
+            if (folded.length() > 0) {
+                folded.append(';');
+            }
+            folded.append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName());
+        }
+        return folded.toString();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static final class MethodStats {
+
+        private long count;
+
+        private Duration total = Duration.ZERO;
+
+        private Duration max = Duration.ZERO;
+
+        private void add(Duration duration) {
+            count++;
+            total = total.plus(duration);
+            if (duration.compareTo(max) > 0) {
+                max = duration;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jibexample.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 仓库方法调用的 JFR 事件
+ * <p>
+ * JDK 本身没有 JDBC 相关的 JFR 事件，这里在 Spring Data 仓库代理上记录每次调用的耗时，
+ * 覆盖查询执行与结果映射；服务层事务内的写操作在事务提交时才会刷新到数据库，不计入该事件。
+ */
+@Name(RepositoryInvocationEvent.NAME)
+@Label("Repository Invocation")
+@Description("Spring Data 仓库方法调用")
+@Category({"Jib Example", "Data Access"})
+class RepositoryInvocationEvent extends Event {
+
+    static final String NAME = "com.example.jibexample.RepositoryInvocation";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+}
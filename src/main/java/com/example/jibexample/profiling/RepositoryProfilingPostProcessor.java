@@ -0,0 +1,61 @@
+package com.example.jibexample.profiling;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 为阻塞式 Spring Data 仓库添加 {@link RepositoryInvocationEvent} 记录
+ * <p>
+ * 事件未启用（没有包含该事件的 JFR 录制）时，拦截器只做一次判断就直接调用仓库方法。
+ * 响应式仓库的方法只负责组装 Mono / Flux，调用耗时没有意义，不做拦截。
+ */
+@Component
+public class RepositoryProfilingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> {
+                if (factory instanceof ReactiveRepositoryFactorySupport) {
+                    return;
+                }
+                factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                        proxyFactory.addAdvice(new RecordingInterceptor(
+                                repositoryInformation.getRepositoryInterface().getSimpleName())));
+            });
+        }
+        return bean;
+    }
+
+    private static final class RecordingInterceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        private RecordingInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryInvocationEvent event = new RepositoryInvocationEvent();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+            event.begin();
+            try {
+                return invocation.proceed();
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.jibexample.service;
+
+import com.example.jibexample.dao.ReactiveUserRepository;
+import com.example.jibexample.entity.User;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 用户业务逻辑层（响应式版本，与 {@link UserService} 保持相同的业务规则）
+ */
+@Service
+@Profile("reactive")
+@Transactional
+public class ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveUserService(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 创建用户
+     */
+    public Mono<User> createUser(User user) {
+        return userRepository.existsByUsername(user.getUsername())
+                .flatMap(usernameExists -> usernameExists
+                        ? Mono.error(new RuntimeException("用户名已存在: " + user.getUsername()))
+                        : userRepository.existsByEmail(user.getEmail()))
+                .flatMap(emailExists -> emailExists
+                        ? Mono.error(new RuntimeException("邮箱已存在: " + user.getEmail()))
+                        : Mono.defer(() -> {
+                            // R2DBC 不会触发 JPA 的 @PrePersist 回调，这里手动维护时间戳
+                            LocalDateTime now = LocalDateTime.now();
+                            user.setId(null);
+                            user.setCreatedAt(now);
+                            user.setUpdatedAt(now);
+                            return userRepository.save(user);
+                        }));
+    }
+
+    /**
+     * 根据ID获取用户
+     * <p>
+     * 单条查询不需要事务；r2dbc-h2 也不支持事务级的只读选项，会在每次请求时输出警告。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Mono<User> getUserById(Long id) {
+        return userRepository.findById(id);
+    }
+
+    /**
+     * 根据用户名获取用户
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Mono<User> getUserByUsername(String username) {
+        return userRepository.findByUsername(username);
+    }
+
+    /**
+     * 获取所有用户，结果按订阅方的需求逐批从数据库拉取（支持背压）
+     * <p>
+     * 不开启事务，避免在消费较慢的流式响应期间一直占用连接池中的连接和事务。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Flux<User> getAllUsers() {
+        return userRepository.findAll();
+    }
+
+    /**
+     * 更新用户信息
+     */
+    public Mono<User> updateUser(Long id, User userDetails) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("用户不存在，ID: " + id)))
+                .flatMap(user -> checkUsernameAvailable(user, userDetails)
+                        .then(checkEmailAvailable(user, userDetails))
+                        .then(Mono.defer(() -> {
+                            user.setUsername(userDetails.getUsername());
+                            user.setEmail(userDetails.getEmail());
+                            user.setName(userDetails.getName());
+                            user.setUpdatedAt(LocalDateTime.now());
+                            return userRepository.save(user);
+                        })));
+    }
+
+    /**
+     * 删除用户
+     */
+    public Mono<Void> deleteUser(Long id) {
+        return userRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? userRepository.deleteById(id)
+                        : Mono.error(new RuntimeException("用户不存在，ID: " + id)));
+    }
+
+    /**
+     * 检查用户名是否被其他用户使用
+     */
+    private Mono<Void> checkUsernameAvailable(User user, User userDetails) {
+        if (user.getUsername().equals(userDetails.getUsername())) {
+            return Mono.empty();
+        }
+        return userRepository.existsByUsername(userDetails.getUsername())
+                .flatMap(exists -> exists
+                        ? Mono.error(new RuntimeException("用户名已存在: " + userDetails.getUsername()))
+                        : Mono.empty());
+    }
+
+    /**
+     * 检查邮箱是否被其他用户使用
+     */
+    private Mono<Void> checkEmailAvailable(User user, User userDetails) {
+        if (user.getEmail().equals(userDetails.getEmail())) {
+            return Mono.empty();
+        }
+        return userRepository.existsByEmail(userDetails.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.error(new RuntimeException("邮箱已存在: " + userDetails.getEmail()))
+                        : Mono.empty());
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.jibexample.service;
 
+import com.example.jibexample.cache.UserResponseCache;
 import com.example.jibexample.dao.UserRepository;
+import com.example.jibexample.dto.UserDto;
+import com.example.jibexample.dto.UserStats;
 import com.example.jibexample.entity.User;
+import com.example.jibexample.stats.UserStatistics;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,13 +21,20 @@ import java.util.Optional;
  * 用户业务逻辑层
  */
 @Service
+@Profile("!reactive")
 @Transactional
 public class UserService {
 
     private final UserRepository userRepository;
 
-    public UserService(UserRepository userRepository) {
+    private final UserStatistics userStatistics;
+
+    private final UserResponseCache responseCache;
+
+    public UserService(UserRepository userRepository, UserStatistics userStatistics, UserResponseCache responseCache) {
         this.userRepository = userRepository;
+        this.userStatistics = userStatistics;
+        this.responseCache = responseCache;
     }
 
     /**
@@ -31,31 +47,43 @@ public class UserService {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("邮箱已存在: " + user.getEmail());
         }
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userStatistics.recordCreated(savedUser);
+        return savedUser;
     }
 
     /**
      * 根据ID获取用户
      */
     @Transactional(readOnly = true)
-    public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+    public Optional<UserDto> getUserById(Long id) {
+        return userRepository.findDtoById(id);
     }
 
     /**
      * 根据用户名获取用户
      */
     @Transactional(readOnly = true)
-    public Optional<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+    public Optional<UserDto> getUserByUsername(String username) {
+        return userRepository.findDtoByUsername(username);
     }
 
     /**
      * 获取所有用户
      */
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserDto> getAllUsers() {
+        return userRepository.findAllDtosBy();
+    }
+
+    /**
+     * 获取用户统计信息
+     * <p>
+     * 统计信息直接来自内存中的计数器，不需要开启事务。
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserStats getUserStats() {
+        return userStatistics.snapshot();
     }
 
     /**
@@ -77,20 +105,44 @@ public class UserService {
             throw new RuntimeException("邮箱已存在: " + userDetails.getEmail());
         }
 
+        LocalDateTime previousUpdatedAt = user.getUpdatedAt();
         user.setUsername(userDetails.getUsername());
         user.setEmail(userDetails.getEmail());
         user.setName(userDetails.getName());
 
-        return userRepository.save(user);
+        User updatedUser = userRepository.save(user);
+        userStatistics.recordUpdated(previousUpdatedAt, updatedUser);
+        // 新的 updatedAt 在提交刷新时才写入实体；并发读取写回的旧版本会因 updatedAt 较旧而被忽略
+        afterCommit(() -> responseCache.put(id, updatedUser.getUpdatedAt(), updatedUser));
+        return updatedUser;
     }
 
     /**
      * 删除用户
      */
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("用户不存在，ID: " + id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("用户不存在，ID: " + id));
+        userRepository.delete(user);
+        userStatistics.recordDeleted(user);
+        afterCommit(() -> responseCache.markDeleted(id));
+    }
+
+    /**
+     * 在当前事务提交后执行，没有事务时立即执行
+     * <p>
+     * 用于更新 {@link UserResponseCache}：回滚的修改不会进入缓存，所有写路径都会经过这里。
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
-        userRepository.deleteById(id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
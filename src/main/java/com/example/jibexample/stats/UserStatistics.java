@@ -0,0 +1,222 @@
+package com.example.jibexample.stats;
+
+import com.example.jibexample.dao.UserRepository;
+import com.example.jibexample.dto.UserCountByHour;
+import com.example.jibexample.dto.UserStats;
+import com.example.jibexample.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 用户统计计数器
+ * <p>
+ * 用户总数、按天 / 按小时的注册数以及按小时的更新数都保存在内存中，由 {@link com.example.jibexample.service.UserService}
+ * 的写操作在事务提交后增量维护，查询时不访问数据库。计数器会定期与数据库对账并整体替换，
+ * 以修正进程外的数据变更，同时丢弃已经超出统计窗口的时间段。
+ * <p>
+ * 每次对账都会生成新一代计数器。写操作在提交前绑定当时的那一代，提交后只更新这一代，整个过程不持有任何锁：
+ * 在对账查询期间提交的写操作记在被替换掉的旧一代上，随旧计数器一起丢弃，因此不会与对账结果重复计数；
+ * 若查询恰好没有看到这次提交，偏差也会在下次对账时修正。
+ */
+@Component
+@Profile("!reactive")
+public class UserStatistics {
+
+    private final UserRepository userRepository;
+
+    private final int signupDays;
+
+    private final int recentHours;
+
+    private volatile Counters counters;
+
+    public UserStatistics(UserRepository userRepository,
+                          @Value("${user.stats.signup-days:30}") int signupDays,
+                          @Value("${user.stats.recent-hours:24}") int recentHours) {
+        this.userRepository = userRepository;
+        this.signupDays = signupDays;
+        this.recentHours = recentHours;
+        // 首次对账前只统计启动后的写操作
+        this.counters = new Counters(null);
+    }
+
+    /**
+     * 记录新创建的用户
+     */
+    public void recordCreated(User user) {
+        apply(counters -> counters.add(user.getCreatedAt(), user.getUpdatedAt(), 1));
+    }
+
+    /**
+     * 记录用户更新，previousUpdatedAt 为更新前的 updatedAt
+     * <p>
+     * 新的 updatedAt 在事务提交刷新时才会写入实体，因此在提交后读取。
+     */
+    public void recordUpdated(LocalDateTime previousUpdatedAt, User user) {
+        apply(counters -> counters.moveUpdate(previousUpdatedAt, user.getUpdatedAt()));
+    }
+
+    /**
+     * 记录已删除的用户
+     */
+    public void recordDeleted(User user) {
+        apply(counters -> counters.add(user.getCreatedAt(), user.getUpdatedAt(), -1));
+    }
+
+    /**
+     * 获取当前统计信息，只读取内存中的计数器
+     */
+    public UserStats snapshot() {
+        Counters current = counters;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate firstDay = firstSignupDay(now);
+        LocalDateTime firstHour = firstRecentHour(now);
+
+        Map<LocalDate, Long> signupsPerDay = new TreeMap<>();
+        for (LocalDate day = firstDay; !day.isAfter(now.toLocalDate()); day = day.plusDays(1)) {
+            signupsPerDay.put(day, value(current.signupsByDay, day));
+        }
+        Map<LocalDateTime, Long> signupsPerHour = new TreeMap<>();
+        long recentlyUpdated = 0;
+        for (LocalDateTime hour = firstHour; !hour.isAfter(now); hour = hour.plusHours(1)) {
+            signupsPerHour.put(hour, value(current.signupsByHour, hour));
+            recentlyUpdated += value(current.updatesByHour, hour);
+        }
+        return new UserStats(current.total.get(), signupsPerDay, signupsPerHour, recentlyUpdated, current.reconciledAt);
+    }
+
+    /**
+     * 与数据库对账，用查询结果重建全部计数器
+     */
+    @Scheduled(fixedDelayString = "${user.stats.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        Counters reconciled = new Counters(LocalDateTime.now());
+        reconciled.total.set(userRepository.count());
+        for (UserCountByHour count : userRepository.countCreatedByHourSince(reconciled.firstDay.atStartOfDay())) {
+            reconciled.signupsByDay.computeIfAbsent(count.day(), day -> new AtomicLong()).addAndGet(count.count());
+            if (!count.startOfHour().isBefore(reconciled.firstHour)) {
+                reconciled.signupsByHour.put(count.startOfHour(), new AtomicLong(count.count()));
+            }
+        }
+        for (UserCountByHour count : userRepository.countUpdatedByHourSince(reconciled.firstHour)) {
+            reconciled.updatesByHour.put(count.startOfHour(), new AtomicLong(count.count()));
+        }
+        counters = reconciled;
+    }
+
+    /**
+     * 在当前事务提交后更新提交前绑定的那一代计数器，没有事务时立即更新
+     */
+    private void apply(Consumer<Counters> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.accept(counters);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private Counters generation;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                generation = counters;
+            }
+
+            @Override
+            public void afterCommit() {
+                if (generation != null) {
+                    change.accept(generation);
+                }
+            }
+        });
+    }
+
+    private LocalDate firstSignupDay(LocalDateTime now) {
+        return now.toLocalDate().minusDays(signupDays - 1L);
+    }
+
+    private LocalDateTime firstRecentHour(LocalDateTime now) {
+        return now.truncatedTo(ChronoUnit.HOURS).minusHours(recentHours - 1L);
+    }
+
+    private static <K> long value(Map<K, AtomicLong> buckets, K key) {
+        AtomicLong count = buckets.get(key);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * 一代计数器，对应一次对账周期，对账时整体替换
+     * <p>
+     * 早于窗口起点的时间段不再计数，超出窗口的旧时间段在读取时忽略，并在下次对账时丢弃。
+     */
+    private final class Counters {
+
+        private final AtomicLong total = new AtomicLong();
+
+        private final Map<LocalDate, AtomicLong> signupsByDay = new ConcurrentHashMap<>();
+
+        private final Map<LocalDateTime, AtomicLong> signupsByHour = new ConcurrentHashMap<>();
+
+        private final Map<LocalDateTime, AtomicLong> updatesByHour = new ConcurrentHashMap<>();
+
+        private final LocalDateTime reconciledAt;
+
+        private final LocalDate firstDay;
+
+        private final LocalDateTime firstHour;
+
+        private Counters(LocalDateTime reconciledAt) {
+            LocalDateTime now = reconciledAt != null ? reconciledAt : LocalDateTime.now();
+            this.reconciledAt = reconciledAt;
+            this.firstDay = firstSignupDay(now);
+            this.firstHour = firstRecentHour(now);
+        }
+
+        private void add(LocalDateTime createdAt, LocalDateTime updatedAt, long delta) {
+            total.addAndGet(delta);
+            if (createdAt != null) {
+                addTo(signupsByDay, createdAt.toLocalDate(), firstDay, delta);
+                addTo(signupsByHour, createdAt.truncatedTo(ChronoUnit.HOURS), firstHour, delta);
+            }
+            if (updatedAt != null) {
+                addTo(updatesByHour, updatedAt.truncatedTo(ChronoUnit.HOURS), firstHour, delta);
+            }
+        }
+
+        private void moveUpdate(LocalDateTime previousUpdatedAt, LocalDateTime updatedAt) {
+            LocalDateTime previousHour = previousUpdatedAt == null ? null : previousUpdatedAt.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime hour = updatedAt == null ? null : updatedAt.truncatedTo(ChronoUnit.HOURS);
+            if (Objects.equals(previousHour, hour)) {
+                return;
+            }
+            if (previousHour != null) {
+                addTo(updatesByHour, previousHour, firstHour, -1);
+            }
+            if (hour != null) {
+                addTo(updatesByHour, hour, firstHour, 1);
+            }
+        }
+
+        private <K extends Comparable<? super K>> void addTo(Map<K, AtomicLong> buckets, K key, K first, long delta) {
+            if (key.compareTo(first) < 0) {
+                return;
+            }
+            buckets.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+}
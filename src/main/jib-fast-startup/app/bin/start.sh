@@ -0,0 +1,24 @@
+#!/bin/sh
+# fast-startup 镜像的启动脚本
+#
+# CDS_TRAINING=true 时执行一次训练运行：Spring 上下文刷新完成后立即退出，并把加载过的类转储为
+# AppCDS 归档。归档必须由镜像内的同一个 JVM、同一个 classpath 生成，因此训练在容器内进行：
+#
+#   docker run --rm -e CDS_TRAINING=true \
+#       -v "$PWD/src/main/jib-fast-startup/app/cds:/app/cds" jib-example:latest
+#
+# 随后再次执行 mvn -Pfast-startup package jib:dockerBuild，归档会作为独立的层打入镜像。
+# Jib 的构建是可复现的（文件时间戳固定），第二次构建的 classpath 与训练时完全一致，归档可以直接使用。
+
+CDS_ARCHIVE=/app/cds/application.jsa
+
+if [ "$CDS_TRAINING" = "true" ]; then
+    mkdir -p /app/cds
+    CDS_OPTS="-XX:ArchiveClassesAtExit=$CDS_ARCHIVE -Dspring.context.exit=onRefresh"
+elif [ -f "$CDS_ARCHIVE" ]; then
+    # -Xshare:auto：归档与当前 JVM 或 classpath 不匹配时自动退回普通启动，而不是启动失败
+    CDS_OPTS="-XX:SharedArchiveFile=$CDS_ARCHIVE -Xshare:auto"
+fi
+
+exec java $JAVA_OPTS $CDS_OPTS -Dspring.aot.enabled=true \
+    -cp @/app/jib-classpath-file @/app/jib-main-class-file "$@"
@@ -0,0 +1,88 @@
+package com.example.jibexample;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 用户接口端到端集成测试（reactive profile）
+ * <p>
+ * 场景与 {@link UserApiIntegrationTest} 保持一致，启动真实的 Netty 服务与 R2DBC H2 数据库，
+ * 覆盖 schema-h2.sql 建表、自动配置排除以及 ReactiveUserRepository 的查询。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveUserApiIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testUserLifecycle() {
+        // 创建用户
+        Map<String, String> user = Map.of("username", "reactive-lifecycle", "email", "reactive-lifecycle@example.com",
+                "name", "生命周期");
+        Map<?, ?> created = webTestClient.post().uri("/api/users")
+                .bodyValue(user)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult().getResponseBody();
+        Number id = (Number) ((Map<?, ?>) created.get("data")).get("id");
+        assertNotNull(id);
+        assertNotNull(((Map<?, ?>) created.get("data")).get("createdAt"));
+
+        // 重复创建
+        webTestClient.post().uri("/api/users")
+                .bodyValue(user)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("用户名已存在: reactive-lifecycle");
+
+        // 查询用户
+        webTestClient.get().uri("/api/users/{id}", id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.username").isEqualTo("reactive-lifecycle");
+        webTestClient.get().uri("/api/users/username/reactive-lifecycle")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data[?(@.username == 'reactive-lifecycle')]").exists();
+        webTestClient.get().uri("/api/users/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON);
+
+        // 更新用户
+        Map<String, String> details = Map.of("username", "reactive-lifecycle2", "email", "reactive-lifecycle2@example.com",
+                "name", "更新后");
+        webTestClient.put().uri("/api/users/{id}", id)
+                .bodyValue(details)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.username").isEqualTo("reactive-lifecycle2");
+
+        // 删除用户
+        webTestClient.delete().uri("/api/users/{id}", id)
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/api/users/{id}", id)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.jibexample;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 用户接口端到端集成测试
+ * <p>
+ * 不依赖 Mockito，启动真实的 Web 服务与 H2 数据库，既在 JVM 上运行，也通过 mvn -PnativeTest test 在原生镜像中运行。
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserApiIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUserLifecycle() {
+        // 创建用户
+        Map<String, String> user = Map.of("username", "lifecycle", "email", "lifecycle@example.com", "name", "生命周期");
+        ResponseEntity<Map> created = restTemplate.postForEntity("/api/users", user, Map.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        Map<String, Object> data = (Map<String, Object>) created.getBody().get("data");
+        Number id = (Number) data.get("id");
+        assertNotNull(id);
+        assertNotNull(data.get("createdAt"));
+
+        // 重复创建
+        ResponseEntity<Map> duplicated = restTemplate.postForEntity("/api/users", user, Map.class);
+        assertEquals(HttpStatus.BAD_REQUEST, duplicated.getStatusCode());
+        assertEquals("用户名已存在: lifecycle", duplicated.getBody().get("message"));
+
+        // 查询用户
+        ResponseEntity<Map> byId = restTemplate.getForEntity("/api/users/" + id, Map.class);
+        assertEquals(HttpStatus.OK, byId.getStatusCode());
+        ResponseEntity<Map> byUsername = restTemplate.getForEntity("/api/users/username/lifecycle", Map.class);
+        assertEquals(HttpStatus.OK, byUsername.getStatusCode());
+        ResponseEntity<Map> all = restTemplate.getForEntity("/api/users", Map.class);
+        assertTrue(((List<?>) all.getBody().get("data")).size() >= 1);
+
+        // 更新用户
+        Map<String, String> details = Map.of("username", "lifecycle2", "email", "lifecycle2@example.com", "name", "更新后");
+        ResponseEntity<Map> updated = restTemplate.exchange("/api/users/" + id, HttpMethod.PUT,
+                new HttpEntity<>(details), Map.class);
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertEquals("lifecycle2", ((Map<String, Object>) updated.getBody().get("data")).get("username"));
+
+        // 删除用户
+        ResponseEntity<Map> deleted = restTemplate.exchange("/api/users/" + id, HttpMethod.DELETE, null, Map.class);
+        assertEquals(HttpStatus.OK, deleted.getStatusCode());
+        ResponseEntity<Map> missing = restTemplate.getForEntity("/api/users/" + id, Map.class);
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUserStats() {
+        Map<String, Object> before = (Map<String, Object>) restTemplate.getForObject("/api/users/stats", Map.class).get("data");
+
+        // 创建用户后计数随之增加
+        Map<String, String> user = Map.of("username", "stats", "email", "stats@example.com", "name", "统计");
+        Map<String, Object> data = (Map<String, Object>) restTemplate.postForObject("/api/users", user, Map.class).get("data");
+        Map<String, Object> created = (Map<String, Object>) restTemplate.getForObject("/api/users/stats", Map.class).get("data");
+        assertEquals(number(before, "total") + 1, number(created, "total"));
+        assertEquals(number(before, "recentlyUpdated") + 1, number(created, "recentlyUpdated"));
+
+        // 删除用户后计数恢复
+        restTemplate.delete("/api/users/" + data.get("id"));
+        Map<String, Object> deleted = (Map<String, Object>) restTemplate.getForObject("/api/users/stats", Map.class).get("data");
+        assertEquals(number(before, "total"), number(deleted, "total"));
+        assertEquals(number(before, "recentlyUpdated"), number(deleted, "recentlyUpdated"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCompression_MinResponseSize() throws Exception {
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Map<String, String> user = Map.of("username", "compression" + i, "email", "compression" + i + "@example.com",
+                    "name", "压缩".repeat(10));
+            ids.add(((Map<String, Object>) restTemplate.postForObject("/api/users", user, Map.class).get("data")).get("id"));
+        }
+
+        // 小于阈值（2KB）的 JSON 响应不压缩
+        HttpResponse<byte[]> small = getWithGzip("/api/users/username/compression0");
+        assertEquals(200, small.statusCode());
+        assertTrue(small.headers().firstValue(HttpHeaders.CONTENT_ENCODING).isEmpty());
+        assertTrue(small.body().length < 2048);
+
+        // 超过阈值的列表响应压缩
+        HttpResponse<byte[]> large = getWithGzip("/api/users");
+        assertEquals(200, large.statusCode());
+        assertEquals("gzip", large.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null));
+
+        ids.forEach(id -> restTemplate.delete("/api/users/" + id));
+    }
+
+    /**
+     * 使用 JDK HttpClient 发送请求，它不会自动解压，可以看到原始的 Content-Encoding
+     */
+    private HttpResponse<byte[]> getWithGzip(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        return HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static long number(Map<String, Object> stats, String key) {
+        return ((Number) stats.get(key)).longValue();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.jibexample.cache;
+
+import com.example.jibexample.cache.UserResponseCache.CachedResponse;
+import com.example.jibexample.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserResponseCache单元测试
+ */
+class UserResponseCacheTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final LocalDateTime T2 = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    private ObjectMapper objectMapper;
+
+    private UserResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        cache = new UserResponseCache(objectMapper, 2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testPutAndGet() {
+        // When
+        cache.put(1L, T1, user("testuser"));
+
+        // Then
+        CachedResponse cached = cache.get(1L).orElseThrow();
+        String json = new String(cached.json(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"success\":true"));
+        assertTrue(json.contains("\"username\":\"testuser\""));
+        assertNotNull(cached.etag());
+    }
+
+    @Test
+    void testPut_OlderVersionIgnored() {
+        // Given
+        cache.put(1L, T2, user("newer"));
+
+        // When
+        cache.put(1L, T1, user("older"));
+
+        // Then
+        assertEquals(T2, cache.get(1L).orElseThrow().updatedAt());
+    }
+
+    @Test
+    void testGet_ExpiredEntry() {
+        // Given
+        cache = new UserResponseCache(objectMapper, 2, Duration.ZERO, Duration.ofMinutes(1));
+        cache.put(1L, T1, user("testuser"));
+
+        // When & Then
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testMarkDeleted() {
+        // Given
+        cache.put(1L, T1, user("testuser"));
+
+        // When
+        cache.markDeleted(1L);
+        cache.put(1L, T1, user("testuser"));
+
+        // Then
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testMarkDeleted_TombstoneExpires() {
+        // Given
+        cache = new UserResponseCache(objectMapper, 2, Duration.ofMinutes(1), Duration.ZERO);
+        cache.markDeleted(1L);
+
+        // When
+        cache.put(1L, T1, user("testuser"));
+
+        // Then
+        assertTrue(cache.get(1L).isPresent());
+    }
+
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        // Given
+        cache.put(1L, T1, user("user1"));
+        cache.put(2L, T1, user("user2"));
+        cache.get(1L);
+
+        // When
+        cache.put(3L, T1, user("user3"));
+
+        // Then
+        assertTrue(cache.get(1L).isPresent());
+        assertTrue(cache.get(2L).isEmpty());
+        assertTrue(cache.get(3L).isPresent());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testMarkDeleted_TombstonesDoNotTakeCapacity() {
+        // Given
+        cache.markDeleted(10L);
+        cache.markDeleted(11L);
+        cache.markDeleted(12L);
+
+        // When
+        cache.put(1L, T1, user("user1"));
+        cache.put(2L, T1, user("user2"));
+
+        // Then
+        assertTrue(cache.get(1L).isPresent());
+        assertTrue(cache.get(2L).isPresent());
+    }
+
+    private static User user(String username) {
+        User user = new User(username, username + "@example.com", username);
+        user.setUpdatedAt(T1);
+        return user;
+    }
+}
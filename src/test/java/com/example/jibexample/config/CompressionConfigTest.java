@@ -0,0 +1,56 @@
+package com.example.jibexample.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompressionConfig单元测试
+ */
+class CompressionConfigTest {
+
+    private static final byte[] BODY = "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+
+    private final CompressionConfig.ContentLengthFilter filter = new CompressionConfig.ContentLengthFilter();
+
+    @Test
+    void testFilter_BuffersBodyWithoutContentLength() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), response, (req, res) -> {
+            res.getOutputStream().write(BODY);
+            // 响应体先写入缓冲区，原始响应中还没有内容
+            assertEquals(0, response.getContentAsByteArray().length);
+        });
+
+        // Then
+        assertEquals(BODY.length, response.getContentLength());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+
+    @Test
+    void testFilter_WritesThroughWhenContentLengthIsKnown() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/1"), response, (req, res) -> {
+            ((HttpServletResponse) res).addHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(BODY.length));
+            res.getOutputStream().write(BODY);
+            // 直接写入原始响应，不经过缓冲区
+            assertArrayEquals(BODY, response.getContentAsByteArray());
+        });
+
+        // Then
+        assertEquals(BODY.length, response.getContentLength());
+        assertArrayEquals(BODY, response.getContentAsByteArray());
+    }
+}
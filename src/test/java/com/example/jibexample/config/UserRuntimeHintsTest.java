@@ -0,0 +1,37 @@
+package com.example.jibexample.config;
+
+import com.example.jibexample.dto.UserCountByHour;
+import com.example.jibexample.dto.UserDto;
+import com.example.jibexample.dto.UserStats;
+import com.example.jibexample.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UserRuntimeHints单元测试
+ */
+class UserRuntimeHintsTest {
+
+    @Test
+    void testRegisterHints() {
+        // Given
+        RuntimeHints hints = new RuntimeHints();
+
+        // When
+        new UserRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // Then
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(User.class, "getUsername").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(User.class, "setUsername").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserDto.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(UserStats.class, "total").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserCountByHour.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("schema-h2.sql").test(hints));
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.jibexample.controller;
+
+import com.example.jibexample.entity.User;
+import com.example.jibexample.service.ReactiveUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.aot.DisabledInAotMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReactiveUserController单元测试，场景与 {@link UserControllerTest} 保持一致
+ */
+@WebFluxTest(ReactiveUserController.class)
+@DisabledInAotMode
+@ActiveProfiles("reactive")
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserService userService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("testuser", "test@example.com", "测试用户");
+        testUser.setId(1L);
+    }
+
+    @Test
+    void testCreateUser_Success() {
+        // Given
+        when(userService.createUser(any(User.class))).thenReturn(Mono.just(testUser));
+
+        // When & Then
+        webTestClient.post().uri("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(testUser)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.message").isEqualTo("用户创建成功")
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.username").isEqualTo("testuser");
+
+        verify(userService, times(1)).createUser(any(User.class));
+    }
+
+    @Test
+    void testCreateUser_Failure() {
+        // Given
+        when(userService.createUser(any(User.class)))
+                .thenReturn(Mono.error(new RuntimeException("用户名已存在: testuser")));
+
+        // When & Then
+        webTestClient.post().uri("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(testUser)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").isEqualTo("用户名已存在: testuser");
+
+        verify(userService, times(1)).createUser(any(User.class));
+    }
+
+    @Test
+    void testGetUserById_Success() {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Mono.just(testUser));
+
+        // When & Then
+        webTestClient.get().uri("/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.id").isEqualTo(1)
+                .jsonPath("$.data.username").isEqualTo("testuser");
+
+        verify(userService, times(1)).getUserById(1L);
+    }
+
+    @Test
+    void testGetUserById_NotFound() {
+        // Given
+        when(userService.getUserById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        webTestClient.get().uri("/api/users/999")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").isEqualTo("用户不存在，ID: 999");
+
+        verify(userService, times(1)).getUserById(999L);
+    }
+
+    @Test
+    void testGetUserByUsername_Success() {
+        // Given
+        when(userService.getUserByUsername("testuser")).thenReturn(Mono.just(testUser));
+
+        // When & Then
+        webTestClient.get().uri("/api/users/username/testuser")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.username").isEqualTo("testuser");
+
+        verify(userService, times(1)).getUserByUsername("testuser");
+    }
+
+    @Test
+    void testGetAllUsers() {
+        // Given
+        User user1 = new User("user1", "user1@example.com", "用户1");
+        User user2 = new User("user2", "user2@example.com", "用户2");
+        when(userService.getAllUsers()).thenReturn(Flux.just(user1, user2));
+
+        // When & Then
+        webTestClient.get().uri("/api/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.count").isEqualTo(2)
+                .jsonPath("$.data").isArray()
+                .jsonPath("$.data.length()").isEqualTo(2);
+
+        verify(userService, times(1)).getAllUsers();
+    }
+
+    @Test
+    void testStreamAllUsers() {
+        // Given
+        User user1 = new User("user1", "user1@example.com", "用户1");
+        User user2 = new User("user2", "user2@example.com", "用户2");
+        when(userService.getAllUsers()).thenReturn(Flux.just(user1, user2));
+
+        // When & Then
+        webTestClient.get().uri("/api/users/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(User.class)
+                .hasSize(2);
+
+        verify(userService, times(1)).getAllUsers();
+    }
+
+    @Test
+    void testUpdateUser_Success() {
+        // Given
+        User updatedUser = new User("updateduser", "updated@example.com", "更新用户");
+        when(userService.updateUser(eq(1L), any(User.class))).thenReturn(Mono.just(testUser));
+
+        // When & Then
+        webTestClient.put().uri("/api/users/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedUser)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.message").isEqualTo("用户更新成功");
+
+        verify(userService, times(1)).updateUser(eq(1L), any(User.class));
+    }
+
+    @Test
+    void testUpdateUser_Failure() {
+        // Given
+        User updatedUser = new User("updateduser", "updated@example.com", "更新用户");
+        when(userService.updateUser(eq(999L), any(User.class)))
+                .thenReturn(Mono.error(new RuntimeException("用户不存在，ID: 999")));
+
+        // When & Then
+        webTestClient.put().uri("/api/users/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updatedUser)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").isEqualTo("用户不存在，ID: 999");
+
+        verify(userService, times(1)).updateUser(eq(999L), any(User.class));
+    }
+
+    @Test
+    void testDeleteUser_Success() {
+        // Given
+        when(userService.deleteUser(1L)).thenReturn(Mono.empty());
+
+        // When & Then
+        webTestClient.delete().uri("/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.message").isEqualTo("用户删除成功");
+
+        verify(userService, times(1)).deleteUser(1L);
+    }
+
+    @Test
+    void testDeleteUser_Failure() {
+        // Given
+        when(userService.deleteUser(999L))
+                .thenReturn(Mono.error(new RuntimeException("用户不存在，ID: 999")));
+
+        // When & Then
+        webTestClient.delete().uri("/api/users/999")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.message").isEqualTo("用户不存在，ID: 999");
+
+        verify(userService, times(1)).deleteUser(999L);
+    }
+}
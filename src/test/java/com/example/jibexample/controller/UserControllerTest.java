@@ -1,5 +1,8 @@
 package com.example.jibexample.controller;
 
+import com.example.jibexample.cache.UserResponseCache;
+import com.example.jibexample.dto.UserDto;
+import com.example.jibexample.dto.UserStats;
 import com.example.jibexample.entity.User;
 import com.example.jibexample.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,11 +11,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -25,6 +34,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * UserController单元测试
  */
 @WebMvcTest(UserController.class)
+@Import(UserResponseCache.class)
+@DisabledInAotMode
 class UserControllerTest {
 
     @Autowired
@@ -36,12 +47,17 @@ class UserControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserResponseCache responseCache;
+
     private User testUser;
 
     @BeforeEach
     void setUp() {
         testUser = new User("testuser", "test@example.com", "测试用户");
         testUser.setId(1L);
+        testUser.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        responseCache.clear();
     }
 
     @Test
@@ -82,7 +98,7 @@ class UserControllerTest {
     @Test
     void testGetUserById_Success() throws Exception {
         // Given
-        when(userService.getUserById(1L)).thenReturn(Optional.of(testUser));
+        when(userService.getUserById(1L)).thenReturn(Optional.of(toDto(testUser)));
 
         // When & Then
         mockMvc.perform(get("/api/users/1"))
@@ -108,10 +124,38 @@ class UserControllerTest {
         verify(userService, times(1)).getUserById(999L);
     }
 
+    @Test
+    void testGetUserById_CacheHit() throws Exception {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Optional.of(toDto(testUser)));
+        mockMvc.perform(get("/api/users/1")).andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.username").value("testuser"));
+
+        verify(userService, times(1)).getUserById(1L);
+    }
+
+    @Test
+    void testGetUserById_NotModified() throws Exception {
+        // Given
+        when(userService.getUserById(1L)).thenReturn(Optional.of(toDto(testUser)));
+        String etag = mockMvc.perform(get("/api/users/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testGetUserByUsername_Success() throws Exception {
         // Given
-        when(userService.getUserByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userService.getUserByUsername("testuser")).thenReturn(Optional.of(toDto(testUser)));
 
         // When & Then
         mockMvc.perform(get("/api/users/username/testuser"))
@@ -127,7 +171,7 @@ class UserControllerTest {
         // Given
         User user1 = new User("user1", "user1@example.com", "用户1");
         User user2 = new User("user2", "user2@example.com", "用户2");
-        List<User> users = Arrays.asList(user1, user2);
+        List<UserDto> users = Arrays.asList(toDto(user1), toDto(user2));
         when(userService.getAllUsers()).thenReturn(users);
 
         // When & Then
@@ -141,6 +185,28 @@ class UserControllerTest {
         verify(userService, times(1)).getAllUsers();
     }
 
+    @Test
+    void testGetUserStats() throws Exception {
+        // Given
+        UserStats stats = new UserStats(2,
+                Map.of(LocalDate.of(2024, 1, 1), 2L),
+                Map.of(LocalDateTime.of(2024, 1, 1, 10, 0), 2L),
+                1, LocalDateTime.of(2024, 1, 1, 10, 30));
+        when(userService.getUserStats()).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.total").value(2))
+                .andExpect(jsonPath("$.data.signupsPerDay['2024-01-01']").value(2))
+                .andExpect(jsonPath("$.data.signupsPerHour['2024-01-01T10:00']").value(2))
+                .andExpect(jsonPath("$.data.recentlyUpdated").value(1));
+
+        verify(userService, times(1)).getUserStats();
+        verify(userService, never()).getUserById(anyLong());
+    }
+
     @Test
     void testUpdateUser_Success() throws Exception {
         // Given
@@ -204,4 +270,9 @@ class UserControllerTest {
 
         verify(userService, times(1)).deleteUser(999L);
     }
+
+    private static UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getUsername(), user.getEmail(), user.getName(),
+                user.getCreatedAt(), user.getUpdatedAt());
+    }
 }
@@ -0,0 +1,171 @@
+package com.example.jibexample.profiling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProfilingEndpoint单元测试
+ */
+@DisabledInNativeImage
+class ProfilingEndpointTest {
+
+    private ProfilingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new ProfilingEndpoint(Duration.ofSeconds(10), DataSize.ofMegabytes(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    void testStatus_NoRecording() {
+        // When
+        Map<String, Object> status = endpoint.status();
+
+        // Then
+        assertEquals("NONE", status.get("state"));
+        assertEquals(Duration.ofSeconds(10), status.get("maxDuration"));
+    }
+
+    @Test
+    void testStart_ClampsDurationToMax() {
+        // When
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start(Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_OK, response.getStatus());
+        assertEquals("RUNNING", response.getBody().get("state"));
+        assertEquals(Duration.ofSeconds(10), response.getBody().get("duration"));
+    }
+
+    @Test
+    void testStart_AlreadyRunning() {
+        // Given
+        endpoint.start(Duration.ofSeconds(5));
+
+        // When
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(409, response.getStatus());
+        assertEquals("已有正在进行的录制", response.getBody().get("message"));
+    }
+
+    @Test
+    void testStart_InvalidDuration() {
+        // When
+        WebEndpointResponse<Map<String, Object>> response = endpoint.start(Duration.ZERO);
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, response.getStatus());
+        assertEquals("NONE", endpoint.status().get("state"));
+    }
+
+    @Test
+    void testReport_NotAvailable() {
+        // 没有录制
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.report("cpu").getStatus());
+
+        // 未知报告类型
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, endpoint.report("unknown").getStatus());
+
+        // 录制尚未结束
+        endpoint.start(Duration.ofSeconds(5));
+        WebEndpointResponse<Object> response = endpoint.report("cpu");
+        assertEquals(409, response.getStatus());
+        assertEquals("录制尚未结束", response.getBody());
+    }
+
+    @Test
+    void testStop_NoRecording() {
+        // When
+        WebEndpointResponse<Map<String, Object>> response = endpoint.stop();
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, response.getStatus());
+    }
+
+    @Test
+    void testReports_AfterStop() throws Exception {
+        // Given
+        endpoint.start(Duration.ofSeconds(5));
+        RepositoryInvocationEvent event = new RepositoryInvocationEvent();
+        event.begin();
+        event.repository = "UserRepository";
+        event.method = "findDtoById";
+        event.commit();
+
+        // When
+        WebEndpointResponse<Map<String, Object>> stopped = endpoint.stop();
+
+        // Then
+        assertEquals("STOPPED", stopped.getBody().get("state"));
+        assertTrue((Long) stopped.getBody().get("size") > 0);
+
+        WebEndpointResponse<Object> repository = endpoint.report("repository");
+        assertEquals(WebEndpointResponse.STATUS_OK, repository.getStatus());
+        assertTrue(((String) repository.getBody()).contains("UserRepository.findDtoById"));
+
+        WebEndpointResponse<Object> cpu = endpoint.report("CPU");
+        assertEquals(WebEndpointResponse.STATUS_OK, cpu.getStatus());
+        assertEquals("text/plain;charset=UTF-8", cpu.getContentType().toString());
+
+        WebEndpointResponse<Object> jfr = endpoint.report("jfr");
+        assertEquals(WebEndpointResponse.STATUS_OK, jfr.getStatus());
+        assertTrue(((Resource) jfr.getBody()).contentLength() > 0);
+
+        // 录制文件中不包含环境变量、系统属性等进程环境信息
+        List<RecordedEvent> events = RecordingFile.readAllEvents(((Resource) jfr.getBody()).getFile().toPath());
+        assertFalse(events.isEmpty());
+        assertTrue(events.stream().noneMatch(recorded ->
+                ProfilingEndpoint.SENSITIVE_EVENTS.contains(recorded.getEventType().getName())));
+    }
+
+    @Test
+    void testSettings_DisablesSensitiveEvents() throws Exception {
+        // When
+        Map<String, String> settings = ProfilingEndpoint.settings();
+
+        // Then
+        assertEquals("false", settings.get("jdk.InitialEnvironmentVariable#enabled"));
+        assertEquals("false", settings.get("jdk.InitialSystemProperty#enabled"));
+        assertEquals("false", settings.get("jdk.JVMInformation#enabled"));
+        assertEquals("true", settings.get(RepositoryInvocationEvent.NAME + "#enabled"));
+    }
+
+    @Test
+    void testRegistration_RequiresSeparateManagementPort() {
+        WebApplicationContextRunner runner = new WebApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(ProfilingEndpoint.class);
+
+        // 与业务接口共用端口时不注册
+        runner.run(context -> assertTrue(context.getBeansOfType(ProfilingEndpoint.class).isEmpty()));
+        runner.withPropertyValues("server.port=8080", "management.server.port=8080")
+                .run(context -> assertTrue(context.getBeansOfType(ProfilingEndpoint.class).isEmpty()));
+
+        // 独立的管理端口上注册
+        runner.withPropertyValues("management.server.port=8081")
+                .run(context -> assertEquals(1, context.getBeansOfType(ProfilingEndpoint.class).size()));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.jibexample.service;
+
+import com.example.jibexample.dao.ReactiveUserRepository;
+import com.example.jibexample.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReactiveUserService单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
+class ReactiveUserServiceTest {
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    @InjectMocks
+    private ReactiveUserService userService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User("testuser", "test@example.com", "测试用户");
+        testUser.setId(1L);
+    }
+
+    @Test
+    void testCreateUser_Success() {
+        // Given
+        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When & Then
+        StepVerifier.create(userService.createUser(testUser))
+                .assertNext(createdUser -> {
+                    assertEquals("testuser", createdUser.getUsername());
+                    assertNotNull(createdUser.getCreatedAt());
+                    assertNotNull(createdUser.getUpdatedAt());
+                })
+                .verifyComplete();
+        verify(userRepository, times(1)).save(testUser);
+    }
+
+    @Test
+    void testCreateUser_UsernameExists() {
+        // Given
+        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(userService.createUser(testUser))
+                .expectErrorMessage("用户名已存在: testuser")
+                .verify();
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testCreateUser_EmailExists() {
+        // Given
+        when(userRepository.existsByUsername("testuser")).thenReturn(Mono.just(false));
+        when(userRepository.existsByEmail("test@example.com")).thenReturn(Mono.just(true));
+
+        // When & Then
+        StepVerifier.create(userService.createUser(testUser))
+                .expectErrorMessage("邮箱已存在: test@example.com")
+                .verify();
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testGetUserById_NotFound() {
+        // Given
+        when(userRepository.findById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(userService.getUserById(999L))
+                .verifyComplete();
+        verify(userRepository, times(1)).findById(999L);
+    }
+
+    @Test
+    void testGetAllUsers_Backpressure() {
+        // Given
+        User user1 = new User("user1", "user1@example.com", "用户1");
+        User user2 = new User("user2", "user2@example.com", "用户2");
+        when(userRepository.findAll()).thenReturn(Flux.just(user1, user2));
+
+        // When & Then
+        StepVerifier.create(userService.getAllUsers(), 1)
+                .expectNext(user1)
+                .thenRequest(1)
+                .expectNext(user2)
+                .verifyComplete();
+    }
+
+    @Test
+    void testUpdateUser_Success() {
+        // Given
+        User updatedUser = new User("updateduser", "updated@example.com", "更新用户");
+        when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+        when(userRepository.existsByUsername("updateduser")).thenReturn(Mono.just(false));
+        when(userRepository.existsByEmail("updated@example.com")).thenReturn(Mono.just(false));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When & Then
+        StepVerifier.create(userService.updateUser(1L, updatedUser))
+                .assertNext(result -> {
+                    assertEquals("updateduser", result.getUsername());
+                    assertEquals("updated@example.com", result.getEmail());
+                })
+                .verifyComplete();
+        verify(userRepository, times(1)).save(any(User.class));
+    }
+
+    @Test
+    void testUpdateUser_NotFound() {
+        // Given
+        User updatedUser = new User("updateduser", "updated@example.com", "更新用户");
+        when(userRepository.findById(999L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(userService.updateUser(999L, updatedUser))
+                .expectErrorMessage("用户不存在，ID: 999")
+                .verify();
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void testDeleteUser_Success() {
+        // Given
+        when(userRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(userRepository.deleteById(1L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(userService.deleteUser(1L))
+                .verifyComplete();
+        verify(userRepository, times(1)).deleteById(1L);
+    }
+
+    @Test
+    void testDeleteUser_NotFound() {
+        // Given
+        when(userRepository.existsById(999L)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(userService.deleteUser(999L))
+                .expectErrorMessage("用户不存在，ID: 999")
+                .verify();
+        verify(userRepository, never()).deleteById(anyLong());
+    }
+}
@@ -1,16 +1,25 @@
 package com.example.jibexample.service;
 
+import com.example.jibexample.cache.UserResponseCache;
 import com.example.jibexample.dao.UserRepository;
+import com.example.jibexample.dto.UserDto;
+import com.example.jibexample.dto.UserStats;
 import com.example.jibexample.entity.User;
+import com.example.jibexample.stats.UserStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,11 +30,18 @@ import static org.mockito.Mockito.*;
  * UserService单元测试
  */
 @ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage
 class UserServiceTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserStatistics userStatistics;
+
+    @Mock
+    private UserResponseCache responseCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -52,6 +68,7 @@ class UserServiceTest {
         assertEquals("testuser", createdUser.getUsername());
         assertEquals("test@example.com", createdUser.getEmail());
         verify(userRepository, times(1)).save(testUser);
+        verify(userStatistics, times(1)).recordCreated(testUser);
     }
 
     @Test
@@ -86,42 +103,45 @@ class UserServiceTest {
     @Test
     void testGetUserById_Success() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        UserDto userDto = toDto(testUser);
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(userDto));
 
         // When
-        Optional<User> result = userService.getUserById(1L);
+        Optional<UserDto> result = userService.getUserById(1L);
 
         // Then
         assertTrue(result.isPresent());
-        assertEquals(testUser, result.get());
-        verify(userRepository, times(1)).findById(1L);
+        assertEquals(userDto, result.get());
+        verify(userRepository, times(1)).findDtoById(1L);
+        verify(userRepository, never()).findById(anyLong());
     }
 
     @Test
     void testGetUserById_NotFound() {
         // Given
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.findDtoById(999L)).thenReturn(Optional.empty());
 
         // When
-        Optional<User> result = userService.getUserById(999L);
+        Optional<UserDto> result = userService.getUserById(999L);
 
         // Then
         assertFalse(result.isPresent());
-        verify(userRepository, times(1)).findById(999L);
+        verify(userRepository, times(1)).findDtoById(999L);
     }
 
     @Test
     void testGetUserByUsername_Success() {
         // Given
-        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        UserDto userDto = toDto(testUser);
+        when(userRepository.findDtoByUsername("testuser")).thenReturn(Optional.of(userDto));
 
         // When
-        Optional<User> result = userService.getUserByUsername("testuser");
+        Optional<UserDto> result = userService.getUserByUsername("testuser");
 
         // Then
         assertTrue(result.isPresent());
-        assertEquals(testUser, result.get());
-        verify(userRepository, times(1)).findByUsername("testuser");
+        assertEquals(userDto, result.get());
+        verify(userRepository, times(1)).findDtoByUsername("testuser");
     }
 
     @Test
@@ -129,16 +149,17 @@ class UserServiceTest {
         // Given
         User user1 = new User("user1", "user1@example.com", "用户1");
         User user2 = new User("user2", "user2@example.com", "用户2");
-        List<User> users = Arrays.asList(user1, user2);
-        when(userRepository.findAll()).thenReturn(users);
+        List<UserDto> users = Arrays.asList(toDto(user1), toDto(user2));
+        when(userRepository.findAllDtosBy()).thenReturn(users);
 
         // When
-        List<User> result = userService.getAllUsers();
+        List<UserDto> result = userService.getAllUsers();
 
         // Then
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, times(1)).findAllDtosBy();
+        verify(userRepository, never()).findAll();
     }
 
     @Test
@@ -149,6 +170,8 @@ class UserServiceTest {
         when(userRepository.existsByUsername("updateduser")).thenReturn(false);
         when(userRepository.existsByEmail("updated@example.com")).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
+        LocalDateTime previousUpdatedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        testUser.setUpdatedAt(previousUpdatedAt);
 
         // When
         User result = userService.updateUser(1L, updatedUser);
@@ -157,6 +180,32 @@ class UserServiceTest {
         assertNotNull(result);
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userStatistics, times(1)).recordUpdated(previousUpdatedAt, testUser);
+        verify(responseCache, times(1)).put(1L, testUser.getUpdatedAt(), testUser);
+    }
+
+    @Test
+    void testUpdateUser_RefreshesCacheAfterCommit() {
+        // Given
+        User updatedUser = new User("updateduser", "updated@example.com", "更新用户");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.existsByUsername("updateduser")).thenReturn(false);
+        when(userRepository.existsByEmail("updated@example.com")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            userService.updateUser(1L, updatedUser);
+
+            // Then：提交前不更新缓存，提交后写入新版本
+            verifyNoInteractions(responseCache);
+            LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 2, 0, 0);
+            testUser.setUpdatedAt(updatedAt);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(responseCache, times(1)).put(1L, updatedAt, testUser);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -172,26 +221,29 @@ class UserServiceTest {
 
         assertEquals("用户不存在，ID: 999", exception.getMessage());
         verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(userStatistics);
     }
 
     @Test
     void testDeleteUser_Success() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(userRepository).deleteById(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        doNothing().when(userRepository).delete(testUser);
 
         // When
         userService.deleteUser(1L);
 
         // Then
-        verify(userRepository, times(1)).existsById(1L);
-        verify(userRepository, times(1)).deleteById(1L);
+        verify(userRepository, times(1)).findById(1L);
+        verify(userRepository, times(1)).delete(testUser);
+        verify(userStatistics, times(1)).recordDeleted(testUser);
+        verify(responseCache, times(1)).markDeleted(1L);
     }
 
     @Test
     void testDeleteUser_NotFound() {
         // Given
-        when(userRepository.existsById(999L)).thenReturn(false);
+        when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -199,6 +251,26 @@ class UserServiceTest {
         });
 
         assertEquals("用户不存在，ID: 999", exception.getMessage());
-        verify(userRepository, never()).deleteById(anyLong());
+        verify(userRepository, never()).delete(any(User.class));
+        verifyNoInteractions(userStatistics, responseCache);
+    }
+
+    @Test
+    void testGetUserStats() {
+        // Given
+        UserStats stats = new UserStats(2, Map.of(), Map.of(), 1, null);
+        when(userStatistics.snapshot()).thenReturn(stats);
+
+        // When
+        UserStats result = userService.getUserStats();
+
+        // Then
+        assertSame(stats, result);
+        verifyNoInteractions(userRepository);
+    }
+
+    private static UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getUsername(), user.getEmail(), user.getName(),
+                user.getCreatedAt(), user.getUpdatedAt());
     }
 }
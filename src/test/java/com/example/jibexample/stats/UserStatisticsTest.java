@@ -0,0 +1,195 @@
+package com.example.jibexample.stats;
+
+import com.example.jibexample.dao.UserRepository;
+import com.example.jibexample.dto.UserCountByHour;
+import com.example.jibexample.dto.UserStats;
+import com.example.jibexample.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserStatistics单元测试
+ */
+@ExtendWith(MockitoExtension.class)
+class UserStatisticsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatistics statistics;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new UserStatistics(userRepository, 30, 24);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void testSnapshot_Empty() {
+        // When
+        UserStats stats = statistics.snapshot();
+
+        // Then
+        assertEquals(0, stats.total());
+        assertEquals(30, stats.signupsPerDay().size());
+        assertEquals(24, stats.signupsPerHour().size());
+        assertEquals(0, stats.recentlyUpdated());
+        assertNull(stats.reconciledAt());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testRecordCreated() {
+        // When
+        statistics.recordCreated(user(now, now));
+        statistics.recordCreated(user(now, now));
+
+        // Then
+        UserStats stats = statistics.snapshot();
+        assertEquals(2, stats.total());
+        assertEquals(2, sum(stats.signupsPerDay()));
+        assertEquals(2, sum(stats.signupsPerHour()));
+        assertEquals(2, stats.recentlyUpdated());
+    }
+
+    @Test
+    void testRecordUpdated_MovesUserIntoRecentWindow() {
+        // Given
+        User user = user(now.minusDays(2), now);
+
+        // When
+        statistics.recordUpdated(now.minusDays(2), user);
+
+        // Then
+        UserStats stats = statistics.snapshot();
+        assertEquals(0, stats.total());
+        assertEquals(1, stats.recentlyUpdated());
+    }
+
+    @Test
+    void testRecordUpdated_SameHourIsNotCountedTwice() {
+        // Given
+        User user = user(now, now);
+        statistics.recordCreated(user);
+
+        // When
+        statistics.recordUpdated(now, user);
+
+        // Then
+        assertEquals(1, statistics.snapshot().recentlyUpdated());
+    }
+
+    @Test
+    void testRecordDeleted() {
+        // Given
+        User user = user(now, now);
+        statistics.recordCreated(user);
+
+        // When
+        statistics.recordDeleted(user);
+
+        // Then
+        UserStats stats = statistics.snapshot();
+        assertEquals(0, stats.total());
+        assertEquals(0, sum(stats.signupsPerDay()));
+        assertEquals(0, sum(stats.signupsPerHour()));
+        assertEquals(0, stats.recentlyUpdated());
+    }
+
+    @Test
+    void testReconcile_ReplacesCounters() {
+        // Given
+        LocalDateTime hour = now.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime threeDaysAgo = hour.minusDays(3);
+        statistics.recordCreated(user(now, now));
+        when(userRepository.count()).thenReturn(10L);
+        when(userRepository.countCreatedByHourSince(any(LocalDateTime.class))).thenReturn(List.of(
+                new UserCountByHour(hour.toLocalDate(), hour.getHour(), 3L),
+                new UserCountByHour(threeDaysAgo.toLocalDate(), threeDaysAgo.getHour(), 4L)));
+        when(userRepository.countUpdatedByHourSince(any(LocalDateTime.class))).thenReturn(List.of(
+                new UserCountByHour(hour.toLocalDate(), hour.getHour(), 5L)));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        UserStats stats = statistics.snapshot();
+        assertEquals(10, stats.total());
+        assertEquals(7, sum(stats.signupsPerDay()));
+        assertEquals(4, stats.signupsPerDay().get(threeDaysAgo.toLocalDate()));
+        assertEquals(3, sum(stats.signupsPerHour()));
+        assertEquals(5, stats.recentlyUpdated());
+        assertNotNull(stats.reconciledAt());
+        verify(userRepository, times(1)).countCreatedByHourSince(hour.toLocalDate().minusDays(29).atStartOfDay());
+        verify(userRepository, times(1)).countUpdatedByHourSince(hour.minusHours(23));
+    }
+
+    @Test
+    void testReconcile_DiscardsChangesCommittedDuringQuery() {
+        // Given
+        when(userRepository.count()).thenReturn(10L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.recordCreated(user(now, now));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            // When：提交在对账查询期间完成，对账结果已经包含这次写入
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            statistics.reconcile();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(10, statistics.snapshot().total());
+    }
+
+    @Test
+    void testReconcile_KeepsChangesCommittedAfterwards() {
+        // Given
+        when(userRepository.count()).thenReturn(10L);
+        statistics.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            statistics.recordCreated(user(now, now));
+
+            // When
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(11, statistics.snapshot().total());
+    }
+
+    private static User user(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        User user = new User("testuser", "test@example.com", "测试用户");
+        user.setCreatedAt(createdAt);
+        user.setUpdatedAt(updatedAt);
+        return user;
+    }
+
+    private static long sum(Map<?, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}